@@ -0,0 +1,113 @@
+#!/usr/bin/env bash
+# Benchmark de arranque: tiempo hasta la primera peticion exitosa y RSS del proceso Java.
+#
+# Uso: scripts/startup-benchmark.sh <imagen> [iteraciones]
+#   IMAGE se construye con "docker build -t <imagen> ." o "docker build -f Dockerfile.startup -t <imagen> ."
+#
+# Variables opcionales:
+#   PROBE_PATH  Ruta consultada hasta obtener HTTP 200 (por defecto /accounts/startup-probe). GET /accounts/{id}
+#               responde 200 aunque la cuenta no exista, tras una consulta a MongoDB: mide el trafico de negocio real.
+#               /v3/api-docs sirve como peor caso: incluye la creacion diferida de springdoc/OpenAPI.
+#   MONGO_URI   URI de MongoDB accesible desde el contenedor (p. ej. mongodb://host.docker.internal:27017/accountdb).
+#               Si no se indica, se levanta un contenedor MongoDB desechable ($MONGO_IMAGE) en una red privada,
+#               ya listo antes de la primera iteracion, para que su latencia sea local y estable.
+#   MONGO_IMAGE Imagen del MongoDB desechable (por defecto mongo:7)
+#   CPUS, MEMORY  Limites del contenedor (por defecto 1 CPU y 512m, como en las replicas)
+#
+# Las imagenes de Dockerfile.startup verifican con -Xshare:on que el archivo AppCDS se mapea; si no, el build falla.
+set -euo pipefail
+
+IMAGE="${1:?Uso: $0 <imagen> [iteraciones]}"
+ITERATIONS="${2:-5}"
+MONGO_URI="${MONGO_URI:-}"
+MONGO_IMAGE="${MONGO_IMAGE:-mongo:7}"
+PROBE_PATH="${PROBE_PATH:-/accounts/startup-probe}"
+CPUS="${CPUS:-1}"
+MEMORY="${MEMORY:-512m}"
+PORT=18081
+TIMEOUT_MS=60000
+
+if ! [[ "$ITERATIONS" =~ ^[1-9][0-9]*$ ]]; then
+    echo "Las iteraciones deben ser un entero positivo: $ITERATIONS" >&2
+    exit 1
+fi
+
+# "date +%s%3N" solo funciona con GNU date; se usa EPOCHREALTIME (bash 5) o python3 en su defecto
+now_ms() {
+    if [[ -n "${EPOCHREALTIME:-}" ]]; then
+        local now="${EPOCHREALTIME/[.,]/}"
+        echo $(( now / 1000 ))
+    else
+        python3 -c 'import time; print(int(time.time() * 1000))'
+    fi
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+NETWORK="startup-benchmark-$$"
+mongo_container=""
+container=""
+
+cleanup() {
+    if [[ -n "$container" ]]; then
+        docker stop "$container" > /dev/null 2>&1 || true
+    fi
+    if [[ -n "$mongo_container" ]]; then
+        docker stop "$mongo_container" > /dev/null 2>&1 || true
+    fi
+    docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker network create "$NETWORK" > /dev/null
+
+if [[ -z "$MONGO_URI" ]]; then
+    mongo_container=$(docker run -d --rm --network "$NETWORK" --network-alias mongo "$MONGO_IMAGE")
+    for attempt in $(seq 1 150); do
+        docker exec "$mongo_container" mongosh --quiet --eval 'db.runCommand({ ping: 1 }).ok' > /dev/null 2>&1 && break
+        if (( attempt == 150 )); then
+            echo "MongoDB ($MONGO_IMAGE) no estuvo listo a tiempo" >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+    MONGO_URI="mongodb://mongo:27017/accountdb"
+fi
+
+startup_times=()
+rss_values=()
+
+echo "iteracion,arranque_ms,rss_kb"
+for i in $(seq 1 "$ITERATIONS"); do
+    start=$(now_ms)
+    container=$(docker run -d --rm \
+        --cpus="$CPUS" --memory="$MEMORY" \
+        --network "$NETWORK" \
+        --add-host=host.docker.internal:host-gateway \
+        -p "$PORT:8081" \
+        -e SPRING_DATA_MONGODB_URI="$MONGO_URI" \
+        "$IMAGE")
+
+    until curl -sf --max-time 5 -o /dev/null "http://localhost:$PORT$PROBE_PATH"; do
+        if (( $(now_ms) - start > TIMEOUT_MS )); then
+            echo "La iteracion $i no respondio en ${TIMEOUT_MS} ms" >&2
+            docker logs "$container" >&2 || true
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    # El ENTRYPOINT en formato exec deja a java como PID 1 dentro del contenedor
+    rss=$(docker exec "$container" awk '/^VmRSS:/ { print $2 }' /proc/1/status)
+    docker stop "$container" > /dev/null
+    container=""
+
+    startup_times+=("$elapsed")
+    rss_values+=("$rss")
+    echo "$i,$elapsed,$rss"
+done
+
+echo "mediana,$(printf '%s\n' "${startup_times[@]}" | median),$(printf '%s\n' "${rss_values[@]}" | median)"
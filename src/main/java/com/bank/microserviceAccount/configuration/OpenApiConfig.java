@@ -3,12 +3,17 @@ package com.bank.microserviceAccount.configuration;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
 public class OpenApiConfig {
 
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
 
     @Bean
     public GroupedOpenApi publicApi() {
@@ -26,4 +31,40 @@ public class OpenApiConfig {
                         .description("API para gestionar CUENTAS ")
                         .version("v1.0"));
     }
+
+    // Fuera de "dev" los beans de springdoc/OpenAPI se crean en la primera peticion a /v3/api-docs
+    // o /swagger-ui en lugar de durante el arranque. springdoc se declara @Lazy(false), por eso se fuerza aqui.
+    // Los que se inyectan en beans no diferidos (p. ej. su WebFluxConfigurer) se siguen creando al arrancar.
+    // Con AOT (perfil Maven "startup") la condicion se evalua en el build y "dev" ya no la desactiva.
+    @Bean
+    @Profile("!dev")
+    public static BeanFactoryPostProcessor openApiLazyInitialization() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isOpenApiBean(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // Solo publicApi/customOpenAPI y los beans de org.springdoc; nunca las clases de configuracion
+    // propias ni los metodos @Bean estaticos (post-procesadores)
+    private static boolean isOpenApiBean(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition.isAbstract() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+            return false;
+        }
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null) {
+            if (!beanFactory.containsBeanDefinition(factoryBeanName)) {
+                return false;
+            }
+            String factoryClassName = beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+            return factoryClassName != null
+                    && (factoryClassName.startsWith(SPRINGDOC_PACKAGE) || factoryClassName.startsWith(OpenApiConfig.class.getName()));
+        }
+        String className = definition.getBeanClassName();
+        return definition.getFactoryMethodName() == null && className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
 }
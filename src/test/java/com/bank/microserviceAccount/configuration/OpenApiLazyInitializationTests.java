@@ -0,0 +1,70 @@
+package com.bank.microserviceAccount.configuration;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OpenApiLazyInitializationTests {
+
+	@Autowired
+	private ConfigurableListableBeanFactory beanFactory;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void openApiBeansAreLazyOutsideDev() {
+		assertTrue(isLazy("openApiResource"));
+		assertTrue(isLazy("publicApi"));
+		assertTrue(isLazy("customOpenAPI"));
+	}
+
+	@Test
+	void ownConfigurationAndPostProcessorStayEager() {
+		assertFalse(isLazy("openApiConfig"));
+		assertFalse(isLazy("openApiLazyInitialization"));
+	}
+
+	// Un solo test para controlar el orden: el contexto se comparte y la primera peticion crea los beans
+	@Test
+	void openApiBeansAreCreatedOnFirstApiDocsRequest() {
+		assertFalse(beanFactory.containsSingleton("openApiResource"));
+		assertFalse(beanFactory.containsSingleton("multipleOpenApiResource"));
+		assertFalse(beanFactory.containsSingleton("customOpenAPI"));
+
+		webTestClient.get().uri("/v3/api-docs")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.info.title").isEqualTo("API PARA GESTION DE CUENTAS");
+
+		assertTrue(beanFactory.containsSingleton("openApiResource"));
+	}
+
+	private boolean isLazy(String beanName) {
+		return beanFactory.getBeanDefinition(beanName).isLazyInit();
+	}
+
+	@Nested
+	@ActiveProfiles("dev")
+	class DevProfile {
+
+		@Autowired
+		private ConfigurableListableBeanFactory devBeanFactory;
+
+		@Test
+		void openApiBeansAreEagerInDev() {
+			assertFalse(devBeanFactory.getBeanDefinition("openApiResource").isLazyInit());
+			assertFalse(devBeanFactory.getBeanDefinition("customOpenAPI").isLazyInit());
+			assertTrue(devBeanFactory.containsSingleton("openApiResource"));
+			assertFalse(devBeanFactory.containsBeanDefinition("openApiLazyInitialization"));
+		}
+	}
+}